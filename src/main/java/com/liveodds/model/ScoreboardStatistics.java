@@ -0,0 +1,10 @@
+package com.liveodds.model;
+
+/**
+ * Point-in-time view of the scoreboard aggregates.
+ * Tournament figures include finished matches, in-progress figures only cover the live board.
+ * {@code highestScoringMatch} is {@code null} until the first match is started.
+ */
+public record ScoreboardStatistics(int matchesInProgress, int goalsInProgress, int matchesPlayed, int tournamentGoals,
+                                   double averageGoalsPerMatch, Match highestScoringMatch) {
+}
@@ -0,0 +1,19 @@
+package com.liveodds.service;
+
+import java.time.Duration;
+
+/**
+ * Limits after which a match is finished automatically: time since its last start or update,
+ * and total time since it started.
+ */
+public record MatchExpiryPolicy(Duration inactivityTimeout, Duration maxDuration) {
+
+    public MatchExpiryPolicy {
+        if (inactivityTimeout == null || inactivityTimeout.isNegative() || inactivityTimeout.isZero()) {
+            throw new IllegalArgumentException("Inactivity timeout must be positive.");
+        }
+        if (maxDuration == null || maxDuration.isNegative() || maxDuration.isZero()) {
+            throw new IllegalArgumentException("Max duration must be positive.");
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.liveodds.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hashed timing wheel keyed by match key. Scheduling, rescheduling and cancelling are O(1);
+ * a timer fires on the first {@link #advance(long)} after the tick holding its deadline has fully elapsed,
+ * so expiry is at most one tick late. Timers keep their absolute deadline tick instead of a round counter,
+ * which lets an advance over more than one rotation sweep every bucket once instead of walking each elapsed tick.
+ */
+final class MatchExpiryWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final Timer[] buckets;
+    private final Map<String, Timer> timers = new HashMap<>();
+    private long currentTick;
+
+    MatchExpiryWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive.");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two.");
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.buckets = new Timer[wheelSize];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    void schedule(String key, long deadlineMillis) {
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = new Timer(key);
+            timers.put(key, timer);
+        } else {
+            unlink(timer);
+        }
+        timer.deadlineTick = Math.max(deadlineMillis / tickMillis, currentTick);
+        timer.bucket = (int) (timer.deadlineTick & mask);
+        link(timer);
+    }
+
+    void cancel(String key) {
+        Timer timer = timers.remove(key);
+        if (timer != null) {
+            unlink(timer);
+        }
+    }
+
+    List<String> advance(long nowMillis) {
+        List<String> expired = new ArrayList<>();
+        long nowTick = nowMillis / tickMillis;
+        if (nowTick - currentTick >= buckets.length) {
+            for (Timer head : buckets) {
+                expire(head, nowTick - 1, expired);
+            }
+            currentTick = nowTick;
+        }
+        while (currentTick < nowTick) {
+            expire(buckets[(int) (currentTick & mask)], currentTick, expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    int size() {
+        return timers.size();
+    }
+
+    private void expire(Timer timer, long lastElapsedTick, List<String> expired) {
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.deadlineTick <= lastElapsedTick) {
+                unlink(timer);
+                timers.remove(timer.key);
+                expired.add(timer.key);
+            }
+            timer = next;
+        }
+    }
+
+    private void link(Timer timer) {
+        Timer head = buckets[timer.bucket];
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) {
+            head.prev = timer;
+        }
+        buckets[timer.bucket] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            buckets[timer.bucket] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    private static final class Timer {
+        private final String key;
+        private long deadlineTick;
+        private int bucket;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.liveodds.service;
 
 import com.liveodds.utils.Validator;
 
+import java.time.Clock;
+
 public final class ScoreboardFactory {
     public static ScoreboardService createDefaultScoreboard() {
         return new ScoreboardServiceImpl(new Validator(), new HashMapMatchStore());
@@ -10,4 +12,25 @@ public final class ScoreboardFactory {
     public static ScoreboardService createScoreboard(MatchStore matchStore) {
         return new ScoreboardServiceImpl(new Validator(), matchStore);
     }
+
+    public static ScoreboardService createScoreboard(MatchExpiryPolicy expiryPolicy) {
+        return createScoreboard(expiryPolicy, Clock.systemUTC());
+    }
+
+    public static ScoreboardService createScoreboard(MatchExpiryPolicy expiryPolicy, Clock clock) {
+        return createScoreboard(new HashMapMatchStore(), expiryPolicy, clock);
+    }
+
+    public static ScoreboardService createScoreboard(MatchStore matchStore, MatchExpiryPolicy expiryPolicy, Clock clock) {
+        return createScoreboard(matchStore, expiryPolicy, clock, matches -> { });
+    }
+
+    public static ScoreboardService createScoreboard(ScoreboardPublisher publisher) {
+        return new ScoreboardServiceImpl(new Validator(), new HashMapMatchStore(), Clock.systemUTC(), null, publisher);
+    }
+
+    public static ScoreboardService createScoreboard(MatchStore matchStore, MatchExpiryPolicy expiryPolicy, Clock clock,
+                                                     ScoreboardPublisher publisher) {
+        return new ScoreboardServiceImpl(new Validator(), matchStore, clock, expiryPolicy, publisher);
+    }
 }
@@ -0,0 +1,15 @@
+package com.liveodds.service;
+
+import com.liveodds.model.Match;
+
+import java.util.Collection;
+
+/**
+ * Receives the ranked board after every change so it can be exposed outside the service.
+ * Called on the writer thread once per start, update and finish, and once per batch of expired matches.
+ * Implementations must not block.
+ */
+@FunctionalInterface
+public interface ScoreboardPublisher {
+    void publish(Collection<Match> rankedMatches);
+}
@@ -1,5 +1,7 @@
 package com.liveodds.service;
 
+import com.liveodds.model.ScoreboardStatistics;
+
 import java.util.List;
 
 public interface ScoreboardService {
@@ -11,4 +13,10 @@ public interface ScoreboardService {
     void finishMatch(String homeTeam, String awayTeam);
 
     List<String> getSummary();
+
+    ScoreboardStatistics getStatistics();
+
+    int getTeamGoals(String team);
+
+    int expireStaleMatches();
 }
@@ -3,25 +3,47 @@ package com.liveodds.service;
 import com.liveodds.exception.NonExistingException;
 import com.liveodds.exception.TeamAlreadyInMatchException;
 import com.liveodds.model.Match;
+import com.liveodds.model.ScoreboardStatistics;
 import com.liveodds.utils.NameUtil;
 import com.liveodds.utils.Validator;
 
+import java.time.Clock;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
 final class ScoreboardServiceImpl implements ScoreboardService {
 
+    private static final long EXPIRY_TICK_MILLIS = 100;
+    private static final int EXPIRY_WHEEL_SIZE = 4096;
+
     private final Validator validator;
     private final MatchStore matchStore;
+    private final Clock clock;
+    private final MatchExpiryPolicy expiryPolicy;
+    private final MatchExpiryWheel expiryWheel;
+    private final ScoreboardPublisher publisher;
+    private final ScoreboardStatisticsTracker statistics = new ScoreboardStatisticsTracker();
 
     public ScoreboardServiceImpl(Validator validator, MatchStore matchStore) {
+        this(validator, matchStore, Clock.systemUTC(), null, matches -> { });
+    }
+
+    public ScoreboardServiceImpl(Validator validator, MatchStore matchStore, Clock clock, MatchExpiryPolicy expiryPolicy,
+                                 ScoreboardPublisher publisher) {
         this.validator = validator;
         this.matchStore = matchStore;
+        this.clock = clock;
+        this.expiryPolicy = expiryPolicy;
+        this.expiryWheel = expiryPolicy == null
+                ? null
+                : new MatchExpiryWheel(EXPIRY_TICK_MILLIS, EXPIRY_WHEEL_SIZE, clock.millis());
+        this.publisher = publisher;
     }
 
     @Override
     public void startNewMatch(String homeTeam, String awayTeam) {
+        expireStaleMatches();
         homeTeam = validator.validateTeam(homeTeam);
         awayTeam = validator.validateTeam(awayTeam);
         if (isTeamAlreadyInMatch(homeTeam)) {
@@ -30,12 +52,16 @@ final class ScoreboardServiceImpl implements ScoreboardService {
         if (isTeamAlreadyInMatch(awayTeam)) {
             throw new TeamAlreadyInMatchException(String.format("Team %s already in match.", awayTeam));
         }
-        Match match = new Match(homeTeam, awayTeam, 0,0, Instant.now(), 0);
+        Match match = new Match(homeTeam, awayTeam, 0,0, Instant.now(clock), 0);
         matchStore.save(keyOf(homeTeam, awayTeam), match);
+        statistics.onStart(match);
+        scheduleExpiry(keyOf(homeTeam, awayTeam), match);
+        publisher.publish(statistics.rankedMatches());
     }
 
     @Override
     public void updateMatch(String homeTeam, String awayTeam, int homeTeamScore, int awayTeamScore) {
+        expireStaleMatches();
         homeTeam = validator.validateTeam(homeTeam);
         awayTeam = validator.validateTeam(awayTeam);
         Optional<Match> optionalMatch = matchStore.findMatch(keyOf(homeTeam, awayTeam));
@@ -44,29 +70,84 @@ final class ScoreboardServiceImpl implements ScoreboardService {
         }
         validator.validateScore(homeTeamScore);
         validator.validateScore(awayTeamScore);
-        Match match = optionalMatch.get().updateScores(homeTeamScore, awayTeamScore);
+        Match previous = optionalMatch.get();
+        Match match = previous.updateScores(homeTeamScore, awayTeamScore);
         matchStore.save(keyOf(homeTeam, awayTeam), match);
+        statistics.onUpdate(previous, match);
+        scheduleExpiry(keyOf(homeTeam, awayTeam), match);
+        publisher.publish(statistics.rankedMatches());
     }
 
     @Override
     public void finishMatch(String homeTeam, String awayTeam) {
+        expireStaleMatches();
         homeTeam = validator.validateTeam(homeTeam);
         awayTeam = validator.validateTeam(awayTeam);
         Optional<Match> optionalMatch = matchStore.findMatch(keyOf(homeTeam, awayTeam));
         if (optionalMatch.isEmpty()) {
             throw new NonExistingException(String.format("Match %s - %s does not exist.", homeTeam, awayTeam));
         }
-        matchStore.remove(keyOf(homeTeam, awayTeam));
+        remove(keyOf(homeTeam, awayTeam), optionalMatch.get());
+        publisher.publish(statistics.rankedMatches());
     }
 
     @Override
     public List<String> getSummary() {
+        expireStaleMatches();
         return matchStore.findMatches().stream()
                 .sorted()
                 .map(Match::toString)
                 .toList();
     }
 
+    @Override
+    public ScoreboardStatistics getStatistics() {
+        expireStaleMatches();
+        return statistics.snapshot();
+    }
+
+    @Override
+    public int getTeamGoals(String team) {
+        expireStaleMatches();
+        return statistics.teamGoals(validator.validateTeam(team));
+    }
+
+    @Override
+    public int expireStaleMatches() {
+        if (expiryWheel == null) {
+            return 0;
+        }
+        int finished = 0;
+        for (String key : expiryWheel.advance(clock.millis())) {
+            Optional<Match> optionalMatch = matchStore.findMatch(key);
+            if (optionalMatch.isPresent()) {
+                remove(key, optionalMatch.get());
+                finished++;
+            }
+        }
+        if (finished > 0) {
+            publisher.publish(statistics.rankedMatches());
+        }
+        return finished;
+    }
+
+    private void remove(String key, Match match) {
+        matchStore.remove(key);
+        statistics.onFinish(match);
+        if (expiryWheel != null) {
+            expiryWheel.cancel(key);
+        }
+    }
+
+    private void scheduleExpiry(String key, Match match) {
+        if (expiryWheel == null) {
+            return;
+        }
+        long inactivityDeadline = clock.millis() + expiryPolicy.inactivityTimeout().toMillis();
+        long durationDeadline = match.startTime().toEpochMilli() + expiryPolicy.maxDuration().toMillis();
+        expiryWheel.schedule(key, Math.min(inactivityDeadline, durationDeadline));
+    }
+
     private boolean isTeamAlreadyInMatch(String team) {
         return matchStore.findMatches().stream()
                 .anyMatch(m -> m.awayTeam().equals(team) || m.homeTeam().equals(team));
@@ -0,0 +1,118 @@
+package com.liveodds.service;
+
+import com.liveodds.model.Match;
+import com.liveodds.model.ScoreboardStatistics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Keeps scoreboard aggregates up to date from score deltas against the stored match, so reads never scan the
+ * {@link MatchStore}. A stored match the tracker has not seen yet, for example one left in a shared store by
+ * another instance, is adopted on its first update or finish.
+ */
+final class ScoreboardStatisticsTracker {
+
+    private static final Comparator<Match> RANKING = Comparator.<Match>naturalOrder()
+            .thenComparing(Match::homeTeam)
+            .thenComparing(Match::awayTeam);
+
+    private final TreeSet<Match> liveMatches = new TreeSet<>(RANKING);
+    private final Map<String, Integer> teamGoals = new HashMap<>();
+
+    private int goalsInProgress;
+    private int finishedMatches;
+    private int finishedGoals;
+    private Match liveLeader;
+    private Match finishedLeader;
+
+    /**
+     * The store has just confirmed neither team is in a match, so any tracked match with one of them
+     * was removed from the store outside the service and is counted as finished.
+     */
+    void onStart(Match match) {
+        Iterator<Match> iterator = liveMatches.iterator();
+        while (iterator.hasNext()) {
+            Match stale = iterator.next();
+            if (sharesTeam(stale, match)) {
+                iterator.remove();
+                goalsInProgress -= stale.totalScore();
+                countFinished(stale);
+            }
+        }
+        add(match);
+    }
+
+    void onUpdate(Match previous, Match updated) {
+        if (liveMatches.remove(previous)) {
+            goalsInProgress -= previous.totalScore();
+            addTeamGoals(previous.homeTeam(), -previous.homeTeamScore());
+            addTeamGoals(previous.awayTeam(), -previous.awayTeamScore());
+        }
+        add(updated);
+    }
+
+    void onFinish(Match match) {
+        if (liveMatches.remove(match)) {
+            goalsInProgress -= match.totalScore();
+        } else {
+            addTeamGoals(match.homeTeam(), match.homeTeamScore());
+            addTeamGoals(match.awayTeam(), match.awayTeamScore());
+        }
+        countFinished(match);
+        liveLeader = liveMatches.isEmpty() ? null : liveMatches.first();
+    }
+
+    Collection<Match> rankedMatches() {
+        return Collections.unmodifiableSet(liveMatches);
+    }
+
+    int teamGoals(String team) {
+        return teamGoals.getOrDefault(team, 0);
+    }
+
+    ScoreboardStatistics snapshot() {
+        int matchesPlayed = liveMatches.size() + finishedMatches;
+        int tournamentGoals = goalsInProgress + finishedGoals;
+        double average = matchesPlayed == 0 ? 0 : (double) tournamentGoals / matchesPlayed;
+        return new ScoreboardStatistics(liveMatches.size(), goalsInProgress, matchesPlayed, tournamentGoals,
+                average, highestScoringMatch());
+    }
+
+    private Match highestScoringMatch() {
+        if (liveLeader == null || finishedLeader == null) {
+            return liveLeader != null ? liveLeader : finishedLeader;
+        }
+        return RANKING.compare(liveLeader, finishedLeader) <= 0 ? liveLeader : finishedLeader;
+    }
+
+    private void add(Match match) {
+        liveMatches.add(match);
+        goalsInProgress += match.totalScore();
+        addTeamGoals(match.homeTeam(), match.homeTeamScore());
+        addTeamGoals(match.awayTeam(), match.awayTeamScore());
+        liveLeader = liveMatches.first();
+    }
+
+    private void countFinished(Match match) {
+        finishedMatches++;
+        finishedGoals += match.totalScore();
+        if (finishedLeader == null || RANKING.compare(match, finishedLeader) < 0) {
+            finishedLeader = match;
+        }
+    }
+
+    private boolean sharesTeam(Match first, Match second) {
+        return first.homeTeam().equals(second.homeTeam()) || first.homeTeam().equals(second.awayTeam())
+                || first.awayTeam().equals(second.homeTeam()) || first.awayTeam().equals(second.awayTeam());
+    }
+
+    private void addTeamGoals(String team, int delta) {
+        teamGoals.merge(team, delta, Integer::sum);
+    }
+}
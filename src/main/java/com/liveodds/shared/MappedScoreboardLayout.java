@@ -0,0 +1,32 @@
+package com.liveodds.shared;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the memory-mapped scoreboard file. The header holds a sequence number that is odd while
+ * the writer is copying a new board into the data region, readers retry until they see the same even value
+ * before and after copying. The magic number is written last with release semantics, so a reader that sees it
+ * with an acquire load also sees the layout version and capacity.
+ */
+final class MappedScoreboardLayout {
+
+    static final int MAGIC = 0x4C4F4453;
+    static final int LAYOUT_VERSION = 1;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int LAYOUT_VERSION_OFFSET = 4;
+    static final int CAPACITY_OFFSET = 8;
+    static final int SEQUENCE_OFFSET = 16;
+    static final int LENGTH_OFFSET = 24;
+    static final int COUNT_OFFSET = 28;
+    static final int HEADER_SIZE = 64;
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    static final VarHandle SEQUENCE = MethodHandles.byteBufferViewVarHandle(long[].class, BYTE_ORDER);
+    static final VarHandle HEADER_INT = MethodHandles.byteBufferViewVarHandle(int[].class, BYTE_ORDER);
+
+    private MappedScoreboardLayout() {
+    }
+}
@@ -0,0 +1,99 @@
+package com.liveodds.shared;
+
+import com.liveodds.model.Match;
+import com.liveodds.service.ScoreboardPublisher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+import static com.liveodds.shared.MappedScoreboardLayout.*;
+
+/**
+ * Publishes the ranked board into a memory-mapped file that {@link MappedScoreboardReader} instances
+ * in other processes can read without locks. Only one publisher may write to a file.
+ * Matches that do not fit into the data region are left out, lowest ranked first.
+ * <p>
+ * Readers never make {@link #publish(Collection)} wait, but every call re-encodes and copies the whole board,
+ * so its cost grows with the number of live matches (at most the capacity, 1 MiB by default, is copied).
+ */
+public final class MappedScoreboardPublisher implements ScoreboardPublisher {
+
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+
+    private final MappedByteBuffer buffer;
+    private final ByteBuffer staging;
+    private long sequence;
+
+    public MappedScoreboardPublisher(Path path) {
+        this(path, DEFAULT_CAPACITY);
+    }
+
+    public MappedScoreboardPublisher(Path path, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.order(BYTE_ORDER);
+        staging = ByteBuffer.allocate(capacity).order(BYTE_ORDER);
+        long previous = (int) HEADER_INT.getAcquire(buffer, MAGIC_OFFSET) == MAGIC
+                ? (long) SEQUENCE.getVolatile(buffer, SEQUENCE_OFFSET)
+                : 0;
+        sequence = previous | 1;
+        SEQUENCE.setVolatile(buffer, SEQUENCE_OFFSET, sequence);
+        buffer.putInt(LENGTH_OFFSET, 0);
+        buffer.putInt(COUNT_OFFSET, 0);
+        buffer.putInt(LAYOUT_VERSION_OFFSET, LAYOUT_VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        SEQUENCE.setRelease(buffer, SEQUENCE_OFFSET, ++sequence);
+        HEADER_INT.setRelease(buffer, MAGIC_OFFSET, MAGIC);
+    }
+
+    @Override
+    public void publish(Collection<Match> rankedMatches) {
+        staging.clear();
+        int count = 0;
+        for (Match match : rankedMatches) {
+            if (!encode(match)) {
+                break;
+            }
+            count++;
+        }
+        int length = staging.position();
+
+        SEQUENCE.setOpaque(buffer, SEQUENCE_OFFSET, ++sequence);
+        VarHandle.storeStoreFence();
+        buffer.putInt(LENGTH_OFFSET, length);
+        buffer.putInt(COUNT_OFFSET, count);
+        buffer.put(HEADER_SIZE, staging, 0, length);
+        SEQUENCE.setRelease(buffer, SEQUENCE_OFFSET, ++sequence);
+    }
+
+    private boolean encode(Match match) {
+        byte[] homeTeam = match.homeTeam().getBytes(StandardCharsets.UTF_8);
+        byte[] awayTeam = match.awayTeam().getBytes(StandardCharsets.UTF_8);
+        int size = Short.BYTES * 2 + homeTeam.length + awayTeam.length + Integer.BYTES * 3 + Long.BYTES;
+        if (staging.remaining() < size) {
+            return false;
+        }
+        staging.putShort((short) homeTeam.length).put(homeTeam)
+                .putShort((short) awayTeam.length).put(awayTeam)
+                .putInt(match.homeTeamScore())
+                .putInt(match.awayTeamScore())
+                .putLong(match.startTime().getEpochSecond())
+                .putInt(match.startTime().getNano());
+        return true;
+    }
+}
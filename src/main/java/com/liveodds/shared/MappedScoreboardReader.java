@@ -0,0 +1,124 @@
+package com.liveodds.shared;
+
+import com.liveodds.model.Match;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.liveodds.shared.MappedScoreboardLayout.*;
+
+/**
+ * Reads consistent snapshots of a board published by {@link MappedScoreboardPublisher}, possibly from another process.
+ * Reads only touch mapped memory and never wait on the writer, they retry while a publish is in progress.
+ * A snapshot fails with {@link IllegalStateException} when no consistent board shows up within the retry timeout,
+ * for example because the writer died mid-publish, or when the file was reopened with a different capacity.
+ */
+public final class MappedScoreboardReader {
+
+    public static final Duration DEFAULT_RETRY_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long retryTimeoutNanos;
+
+    public MappedScoreboardReader(Path path) {
+        this(path, DEFAULT_RETRY_TIMEOUT);
+    }
+
+    public MappedScoreboardReader(Path path, Duration retryTimeout) {
+        if (retryTimeout == null || retryTimeout.isNegative() || retryTimeout.isZero()) {
+            throw new IllegalArgumentException("Retry timeout must be positive.");
+        }
+        this.path = path;
+        this.retryTimeoutNanos = retryTimeout.toNanos();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IllegalStateException(String.format("File %s is not a shared scoreboard.", path));
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.order(BYTE_ORDER);
+        if ((int) HEADER_INT.getAcquire(buffer, MAGIC_OFFSET) != MAGIC || buffer.getInt(LAYOUT_VERSION_OFFSET) != LAYOUT_VERSION) {
+            throw new IllegalStateException(String.format("File %s is not a shared scoreboard.", path));
+        }
+        capacity = buffer.getInt(CAPACITY_OFFSET);
+        if (HEADER_SIZE + (long) capacity > buffer.capacity()) {
+            throw new IllegalStateException(String.format("File %s is not a shared scoreboard.", path));
+        }
+    }
+
+    /**
+     * Number of boards published so far, including the empty one written when the publisher opens the file.
+     * Cheap enough to poll for changes before taking a snapshot.
+     */
+    public long version() {
+        return (long) SEQUENCE.getAcquire(buffer, SEQUENCE_OFFSET) >>> 1;
+    }
+
+    public List<Match> snapshot() {
+        long deadline = 0;
+        while (true) {
+            long before = (long) SEQUENCE.getAcquire(buffer, SEQUENCE_OFFSET);
+            if (buffer.getInt(CAPACITY_OFFSET) != capacity) {
+                throw new IllegalStateException(String.format("Shared scoreboard %s was reopened with a different capacity.", path));
+            }
+            if ((before & 1) == 0) {
+                int length = buffer.getInt(LENGTH_OFFSET);
+                int count = buffer.getInt(COUNT_OFFSET);
+                if (length >= 0 && length <= capacity) {
+                    byte[] data = new byte[length];
+                    buffer.get(HEADER_SIZE, data);
+                    VarHandle.loadLoadFence();
+                    if (before == (long) SEQUENCE.getOpaque(buffer, SEQUENCE_OFFSET)) {
+                        return decode(ByteBuffer.wrap(data).order(BYTE_ORDER), count);
+                    }
+                }
+            }
+            if (deadline == 0) {
+                deadline = System.nanoTime() + retryTimeoutNanos;
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException(String.format("Shared scoreboard %s has no consistent board, its writer may have stopped mid-publish.", path));
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public List<String> getSummary() {
+        return snapshot().stream()
+                .map(Match::toString)
+                .toList();
+    }
+
+    private List<Match> decode(ByteBuffer data, int count) {
+        List<Match> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String homeTeam = readString(data);
+            String awayTeam = readString(data);
+            int homeTeamScore = data.getInt();
+            int awayTeamScore = data.getInt();
+            Instant startTime = Instant.ofEpochSecond(data.getLong(), data.getInt());
+            matches.add(new Match(homeTeam, awayTeam, homeTeamScore, awayTeamScore, startTime, homeTeamScore + awayTeamScore));
+        }
+        return matches;
+    }
+
+    private String readString(ByteBuffer data) {
+        byte[] bytes = new byte[data.getShort()];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
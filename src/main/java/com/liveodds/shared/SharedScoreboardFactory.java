@@ -0,0 +1,16 @@
+package com.liveodds.shared;
+
+import com.liveodds.service.ScoreboardFactory;
+import com.liveodds.service.ScoreboardService;
+
+import java.nio.file.Path;
+
+public final class SharedScoreboardFactory {
+    public static ScoreboardService createSharedScoreboard(Path path) {
+        return ScoreboardFactory.createScoreboard(new MappedScoreboardPublisher(path));
+    }
+
+    public static ScoreboardService createSharedScoreboard(Path path, int capacity) {
+        return ScoreboardFactory.createScoreboard(new MappedScoreboardPublisher(path, capacity));
+    }
+}
@@ -2,12 +2,19 @@ package com.liveodds;
 
 import com.liveodds.exception.NonExistingException;
 import com.liveodds.exception.TeamAlreadyInMatchException;
+import com.liveodds.model.ScoreboardStatistics;
+import com.liveodds.service.MatchExpiryPolicy;
 import com.liveodds.service.ScoreboardFactory;
 import com.liveodds.service.ScoreboardService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 
 import static org.mockito.Mockito.times;
@@ -180,4 +187,91 @@ public class IntegrationTest {
                 """;
         Assertions.assertEquals(expectedSummary, actualSummary.toString());
     }
+
+    @Test
+    public void given_matches_when_getStatistics_then_aggregatesGotten() {
+        service.startNewMatch(SPAIN, ITALY);
+        service.startNewMatch("Denmark", "Portugal");
+        service.updateMatch(SPAIN, ITALY, 2, 0);
+        service.updateMatch("Denmark", "Portugal", 3, 1);
+        service.finishMatch("Denmark", "Portugal");
+        service.startNewMatch("Portugal", "France");
+        service.updateMatch("Portugal", "France", 1, 0);
+
+        ScoreboardStatistics statistics = service.getStatistics();
+        Assertions.assertEquals(2, statistics.matchesInProgress());
+        Assertions.assertEquals(3, statistics.goalsInProgress());
+        Assertions.assertEquals(3, statistics.matchesPlayed());
+        Assertions.assertEquals(7, statistics.tournamentGoals());
+        Assertions.assertEquals("Denmark 3 - Portugal 1", statistics.highestScoringMatch().toString());
+        Assertions.assertEquals(2, service.getTeamGoals("portugal"));
+    }
+
+    @Test
+    public void given_nonExistingTeam_when_getTeamGoals_then_correctExceptionThrown() {
+        NonExistingException exception = Assertions.assertThrows(NonExistingException.class, () -> service.getTeamGoals("Tnt"));
+        Assertions.assertEquals("Team Tnt does not exist.", exception.getMessage());
+    }
+
+    @Test
+    public void given_inactiveMatch_when_getSummary_then_matchAutoFinished() {
+        MutableClock clock = new MutableClock();
+        service = ScoreboardFactory.createScoreboard(new MatchExpiryPolicy(Duration.ofMinutes(10), Duration.ofHours(3)), clock);
+        service.startNewMatch(SPAIN, ITALY);
+        service.startNewMatch("Denmark", "Portugal");
+        clock.advance(Duration.ofMinutes(6));
+        service.updateMatch(SPAIN, ITALY, 1, 0);
+        clock.advance(Duration.ofMinutes(6));
+
+        Assertions.assertEquals(List.of("Spain 1 - Italy 0"), service.getSummary());
+        Assertions.assertEquals(1, service.getStatistics().matchesInProgress());
+        Assertions.assertDoesNotThrow(() -> service.startNewMatch("Denmark", "France"));
+    }
+
+    @Test
+    public void given_overdueMatch_when_expireStaleMatches_then_matchAutoFinished() {
+        MutableClock clock = new MutableClock();
+        service = ScoreboardFactory.createScoreboard(new MatchExpiryPolicy(Duration.ofMinutes(10), Duration.ofMinutes(30)), clock);
+        service.startNewMatch(SPAIN, ITALY);
+        for (int minute = 5; minute < 30; minute += 5) {
+            clock.advance(Duration.ofMinutes(5));
+            service.updateMatch(SPAIN, ITALY, minute, 0);
+        }
+        Assertions.assertEquals(0, service.expireStaleMatches());
+        clock.advance(Duration.ofMinutes(6));
+
+        Assertions.assertEquals(1, service.expireStaleMatches());
+        Assertions.assertTrue(service.getSummary().isEmpty());
+        Assertions.assertEquals(1, service.getStatistics().matchesPlayed());
+    }
+
+    @Test
+    public void given_nonPositiveTimeout_when_createPolicy_then_correctExceptionThrown() {
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new MatchExpiryPolicy(Duration.ZERO, Duration.ofHours(3)));
+        Assertions.assertEquals("Inactivity timeout must be positive.", exception.getMessage());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2026-06-11T18:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
 }
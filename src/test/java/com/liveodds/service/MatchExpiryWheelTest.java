@@ -0,0 +1,72 @@
+package com.liveodds.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class MatchExpiryWheelTest {
+
+    private MatchExpiryWheel wheel;
+
+    @BeforeEach
+    public void setUp() {
+        wheel = new MatchExpiryWheel(100, 8, 0);
+    }
+
+    @Test
+    public void given_scheduledTimer_when_advance_then_expiredAfterDeadlineTick() {
+        wheel.schedule("a", 250);
+        Assertions.assertTrue(wheel.advance(299).isEmpty());
+        Assertions.assertEquals(List.of("a"), wheel.advance(300));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void given_deadlineBeyondOneRotation_when_advance_then_expiredInCorrectRound() {
+        wheel.schedule("a", 2050);
+        Assertions.assertTrue(wheel.advance(2000).isEmpty());
+        Assertions.assertEquals(List.of("a"), wheel.advance(2100));
+    }
+
+    @Test
+    public void given_rescheduledTimer_when_advance_then_newDeadlineUsed() {
+        wheel.schedule("a", 250);
+        wheel.schedule("a", 950);
+        Assertions.assertTrue(wheel.advance(900).isEmpty());
+        Assertions.assertEquals(List.of("a"), wheel.advance(1000));
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void given_cancelledTimer_when_advance_then_notExpired() {
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 250);
+        wheel.cancel("a");
+        Assertions.assertEquals(List.of("b"), wheel.advance(1000));
+    }
+
+    @Test
+    public void given_overdueDeadline_when_schedule_then_expiredOnNextTick() {
+        wheel.advance(1000);
+        wheel.schedule("a", 500);
+        Assertions.assertEquals(List.of("a"), wheel.advance(1100));
+    }
+
+    @Test
+    public void given_wheelSizeNotPowerOfTwo_when_create_then_correctExceptionThrown() {
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> new MatchExpiryWheel(100, 10, 0));
+        Assertions.assertEquals("Wheel size must be a power of two.", exception.getMessage());
+    }
+
+    @Test
+    public void given_longIdlePeriod_when_advance_then_onlyDueTimersExpired() {
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 1_000_150);
+        wheel.schedule("c", 1_000_250);
+        Assertions.assertEquals(List.of("a"), wheel.advance(1_000_100));
+        Assertions.assertEquals(List.of("b"), wheel.advance(1_000_200));
+        Assertions.assertEquals(List.of("c"), wheel.advance(1_000_300));
+    }
+}
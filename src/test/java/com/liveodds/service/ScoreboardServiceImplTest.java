@@ -3,6 +3,7 @@ package com.liveodds.service;
 import com.liveodds.exception.NonExistingException;
 import com.liveodds.exception.TeamAlreadyInMatchException;
 import com.liveodds.model.Match;
+import com.liveodds.model.ScoreboardStatistics;
 import com.liveodds.utils.Validator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -226,4 +229,93 @@ public class ScoreboardServiceImplTest {
                 """;
         Assertions.assertEquals(expectedSummary, actualSummary.toString());
     }
+
+    @Test
+    public void given_scoreCorrection_when_getStatistics_then_deltasApplied() {
+        service = new ScoreboardServiceImpl(validator, new HashMapMatchStore());
+        service.startNewMatch(SPAIN, ITALY);
+        service.updateMatch(SPAIN, ITALY, 3, 1);
+        service.updateMatch(SPAIN, ITALY, 2, 1);
+
+        ScoreboardStatistics statistics = service.getStatistics();
+        Assertions.assertEquals(1, statistics.matchesInProgress());
+        Assertions.assertEquals(3, statistics.goalsInProgress());
+        Assertions.assertEquals(SPAIN, statistics.highestScoringMatch().homeTeam());
+        Assertions.assertEquals(2, statistics.highestScoringMatch().homeTeamScore());
+        Assertions.assertEquals(2, service.getTeamGoals(SPAIN));
+    }
+
+    @Test
+    public void given_finishedMatch_when_getStatistics_then_movedToTournamentStatistics() {
+        service = new ScoreboardServiceImpl(validator, new HashMapMatchStore());
+        service.startNewMatch(SPAIN, ITALY);
+        service.updateMatch(SPAIN, ITALY, 2, 1);
+        service.finishMatch(SPAIN, ITALY);
+
+        ScoreboardStatistics statistics = service.getStatistics();
+        Assertions.assertEquals(0, statistics.matchesInProgress());
+        Assertions.assertEquals(0, statistics.goalsInProgress());
+        Assertions.assertEquals(1, statistics.matchesPlayed());
+        Assertions.assertEquals(3, statistics.tournamentGoals());
+        Assertions.assertEquals(3, statistics.highestScoringMatch().totalScore());
+    }
+
+    @Test
+    public void given_matchAlreadyInStore_when_updateScore_then_matchAdopted() {
+        MatchStore store = new HashMapMatchStore();
+        store.save("Spain_Italy", new Match(SPAIN, ITALY,2,1, Instant.now(), 3));
+        service = new ScoreboardServiceImpl(validator, store);
+        service.updateMatch(SPAIN, ITALY, 3, 1);
+
+        ScoreboardStatistics statistics = service.getStatistics();
+        Assertions.assertEquals(1, statistics.matchesInProgress());
+        Assertions.assertEquals(4, statistics.goalsInProgress());
+        Assertions.assertEquals(3, service.getTeamGoals(SPAIN));
+        Assertions.assertEquals(List.of("Spain 3 - Italy 1"), service.getSummary());
+    }
+
+    @Test
+    public void given_matchAlreadyInStore_when_finishMatch_then_countedAsPlayed() {
+        MatchStore store = new HashMapMatchStore();
+        store.save("Spain_Italy", new Match(SPAIN, ITALY,2,1, Instant.now(), 3));
+        service = new ScoreboardServiceImpl(validator, store);
+        service.finishMatch(SPAIN, ITALY);
+
+        ScoreboardStatistics statistics = service.getStatistics();
+        Assertions.assertEquals(0, statistics.matchesInProgress());
+        Assertions.assertEquals(1, statistics.matchesPlayed());
+        Assertions.assertEquals(3, statistics.tournamentGoals());
+        Assertions.assertEquals(2, service.getTeamGoals(SPAIN));
+    }
+
+    @Test
+    public void given_storeFailure_when_updateScore_then_statisticsUnchanged() {
+        Match match = new Match(SPAIN, ITALY,0,0, Instant.now(), 0);
+        when(matchStore.findMatch(anyString())).thenReturn(Optional.of(match));
+        service.startNewMatch(SPAIN, ITALY);
+        doThrow(new IllegalStateException("Store unavailable.")).when(matchStore).save(anyString(), any(Match.class));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> service.updateMatch(SPAIN, ITALY, 1, 0));
+        Assertions.assertEquals(0, service.getStatistics().goalsInProgress());
+    }
+
+    @Test
+    public void given_severalExpiredMatches_when_expireStaleMatches_then_boardPublishedOnce() {
+        Clock clock = Mockito.mock(Clock.class);
+        Instant start = Instant.parse("2026-06-11T18:00:00Z");
+        when(clock.instant()).thenReturn(start);
+        when(clock.millis()).thenReturn(start.toEpochMilli());
+        ScoreboardPublisher publisher = Mockito.mock(ScoreboardPublisher.class);
+        service = new ScoreboardServiceImpl(validator, matchStore, clock,
+                new MatchExpiryPolicy(Duration.ofMinutes(10), Duration.ofHours(3)), publisher);
+        when(validator.validateTeam("France")).thenReturn("France");
+        service.startNewMatch(SPAIN, ITALY);
+        service.startNewMatch("Denmark", "France");
+        when(matchStore.findMatch(anyString())).thenReturn(Optional.of(new Match(SPAIN, ITALY,0,0, start, 0)));
+        when(clock.millis()).thenReturn(start.plus(Duration.ofMinutes(11)).toEpochMilli());
+
+        Assertions.assertEquals(2, service.expireStaleMatches());
+        verify(publisher, times(3)).publish(any());
+        verify(matchStore, times(2)).remove(anyString());
+    }
 }
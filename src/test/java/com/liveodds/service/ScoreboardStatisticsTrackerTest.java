@@ -0,0 +1,109 @@
+package com.liveodds.service;
+
+import com.liveodds.model.Match;
+import com.liveodds.model.ScoreboardStatistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+public class ScoreboardStatisticsTrackerTest {
+
+    private final String SPAIN = "Spain";
+    private final String ITALY = "Italy";
+
+    private ScoreboardStatisticsTracker tracker;
+
+    @BeforeEach
+    public void setUp() {
+        tracker = new ScoreboardStatisticsTracker();
+    }
+
+    @Test
+    public void given_noMatches_when_snapshot_then_emptyStatistics() {
+        ScoreboardStatistics statistics = tracker.snapshot();
+        Assertions.assertEquals(new ScoreboardStatistics(0, 0, 0, 0, 0, null), statistics);
+    }
+
+    @Test
+    public void given_scoreUpdates_when_snapshot_then_deltasApplied() {
+        Match match = new Match(SPAIN, ITALY, 0, 0, Instant.now(), 0);
+        Match scored = match.updateScores(3, 1);
+        Match corrected = scored.updateScores(2, 1);
+        tracker.onStart(match);
+        tracker.onUpdate(match, scored);
+        tracker.onUpdate(scored, corrected);
+
+        ScoreboardStatistics statistics = tracker.snapshot();
+        Assertions.assertEquals(1, statistics.matchesInProgress());
+        Assertions.assertEquals(3, statistics.goalsInProgress());
+        Assertions.assertEquals(3, statistics.tournamentGoals());
+        Assertions.assertEquals(corrected, statistics.highestScoringMatch());
+        Assertions.assertEquals(2, tracker.teamGoals(SPAIN));
+        Assertions.assertEquals(1, tracker.teamGoals(ITALY));
+    }
+
+    @Test
+    public void given_finishedMatch_when_snapshot_then_keptInTournamentStatistics() {
+        Instant now = Instant.now();
+        Match first = new Match(SPAIN, ITALY, 4, 2, now, 6);
+        Match second = new Match("Denmark", "Portugal", 1, 0, now, 1);
+        tracker.onStart(first);
+        tracker.onStart(second);
+        tracker.onFinish(first);
+
+        ScoreboardStatistics statistics = tracker.snapshot();
+        Assertions.assertEquals(1, statistics.matchesInProgress());
+        Assertions.assertEquals(1, statistics.goalsInProgress());
+        Assertions.assertEquals(2, statistics.matchesPlayed());
+        Assertions.assertEquals(7, statistics.tournamentGoals());
+        Assertions.assertEquals(3.5, statistics.averageGoalsPerMatch());
+        Assertions.assertEquals(first, statistics.highestScoringMatch());
+        Assertions.assertEquals(4, tracker.teamGoals(SPAIN));
+    }
+
+    @Test
+    public void given_sameScoreAndStartTime_when_onStart_then_bothMatchesTracked() {
+        Instant now = Instant.now();
+        tracker.onStart(new Match(SPAIN, ITALY, 0, 0, now, 0));
+        tracker.onStart(new Match("Denmark", "Portugal", 0, 0, now, 0));
+        Assertions.assertEquals(2, tracker.snapshot().matchesInProgress());
+    }
+
+    @Test
+    public void given_untrackedMatch_when_onUpdate_then_matchAdopted() {
+        Match stored = new Match(SPAIN, ITALY, 1, 0, Instant.now(), 1);
+        tracker.onUpdate(stored, stored.updateScores(2, 0));
+
+        ScoreboardStatistics statistics = tracker.snapshot();
+        Assertions.assertEquals(1, statistics.matchesInProgress());
+        Assertions.assertEquals(2, statistics.goalsInProgress());
+        Assertions.assertEquals(2, tracker.teamGoals(SPAIN));
+    }
+
+    @Test
+    public void given_untrackedMatch_when_onFinish_then_countedAsPlayed() {
+        tracker.onFinish(new Match(SPAIN, ITALY, 1, 0, Instant.now(), 1));
+
+        ScoreboardStatistics statistics = tracker.snapshot();
+        Assertions.assertEquals(0, statistics.matchesInProgress());
+        Assertions.assertEquals(1, statistics.matchesPlayed());
+        Assertions.assertEquals(1, statistics.tournamentGoals());
+        Assertions.assertEquals(1, tracker.teamGoals(SPAIN));
+    }
+
+    @Test
+    public void given_matchRemovedOutsideService_when_onStart_then_staleMatchFinished() {
+        Instant now = Instant.now();
+        tracker.onStart(new Match(SPAIN, ITALY, 2, 0, now, 2));
+        tracker.onStart(new Match(SPAIN, "Denmark", 0, 0, now.plusSeconds(1), 0));
+
+        ScoreboardStatistics statistics = tracker.snapshot();
+        Assertions.assertEquals(1, statistics.matchesInProgress());
+        Assertions.assertEquals(0, statistics.goalsInProgress());
+        Assertions.assertEquals(2, statistics.matchesPlayed());
+        Assertions.assertEquals(2, tracker.teamGoals(SPAIN));
+        Assertions.assertEquals(1, tracker.rankedMatches().size());
+    }
+}
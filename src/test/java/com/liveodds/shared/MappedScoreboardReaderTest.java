@@ -0,0 +1,132 @@
+package com.liveodds.shared;
+
+import com.liveodds.model.Match;
+import com.liveodds.service.ScoreboardService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class MappedScoreboardReaderTest {
+
+    private final String SPAIN = "Spain";
+    private final String ITALY = "Italy";
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void given_sharedScoreboard_when_getSummary_then_rankedBoardGotten() throws InterruptedException {
+        Path path = directory.resolve("board");
+        ScoreboardService service = SharedScoreboardFactory.createSharedScoreboard(path);
+        MappedScoreboardReader reader = new MappedScoreboardReader(path);
+        service.startNewMatch(SPAIN, ITALY);
+        service.startNewMatch("Denmark", "Portugal");
+        Thread.sleep(1);
+        service.startNewMatch("France", "Germany");
+        service.updateMatch(SPAIN, ITALY, 2, 0);
+        service.updateMatch("Denmark", "Portugal", 3, 1);
+        service.updateMatch("France", "Germany", 0, 1);
+        service.startNewMatch("Mexico", "Canada");
+        service.finishMatch("Mexico", "Canada");
+
+        Assertions.assertEquals(service.getSummary(), reader.getSummary());
+        Assertions.assertEquals(9, reader.version());
+    }
+
+    @Test
+    public void given_boardLargerThanCapacity_when_snapshot_then_topMatchesGotten() {
+        Path path = directory.resolve("board");
+        MappedScoreboardPublisher publisher = new MappedScoreboardPublisher(path, 64);
+        Instant now = Instant.now();
+        publisher.publish(List.of(
+                new Match(SPAIN, ITALY, 2, 0, now, 2),
+                new Match("Denmark", "Portugal", 1, 0, now, 1),
+                new Match("France", "Germany", 0, 0, now, 0)));
+
+        List<Match> snapshot = new MappedScoreboardReader(path).snapshot();
+        Assertions.assertEquals(List.of(new Match(SPAIN, ITALY, 2, 0, now, 2)), snapshot);
+    }
+
+    @Test
+    public void given_notSharedScoreboardFile_when_createReader_then_correctExceptionThrown() throws IOException {
+        Path path = Files.write(directory.resolve("board"), new byte[128]);
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, () -> new MappedScoreboardReader(path));
+        Assertions.assertEquals(String.format("File %s is not a shared scoreboard.", path), exception.getMessage());
+    }
+
+    @Test
+    public void given_writerStoppedMidPublish_when_snapshot_then_correctExceptionThrown() throws IOException {
+        Path path = directory.resolve("board");
+        new MappedScoreboardPublisher(path, 64);
+        MappedScoreboardReader reader = new MappedScoreboardReader(path, Duration.ofMillis(50));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN).putLong(MappedScoreboardLayout.SEQUENCE_OFFSET, 3);
+        }
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, reader::snapshot);
+        Assertions.assertEquals(String.format("Shared scoreboard %s has no consistent board, its writer may have stopped mid-publish.", path),
+                exception.getMessage());
+    }
+
+    @Test
+    public void given_publisherReopenedWithLargerCapacity_when_snapshot_then_correctExceptionThrown() {
+        Path path = directory.resolve("board");
+        new MappedScoreboardPublisher(path, 64);
+        MappedScoreboardReader reader = new MappedScoreboardReader(path);
+        new MappedScoreboardPublisher(path, 128);
+
+        IllegalStateException exception = Assertions.assertThrows(IllegalStateException.class, reader::snapshot);
+        Assertions.assertEquals(String.format("Shared scoreboard %s was reopened with a different capacity.", path),
+                exception.getMessage());
+    }
+
+    @Test
+    public void given_readerInAnotherJvm_when_updateMatch_then_consistentSnapshotsRead() throws Exception {
+        int finalScore = 5000;
+        Path path = directory.resolve("board");
+        ScoreboardService service = SharedScoreboardFactory.createSharedScoreboard(path);
+        service.startNewMatch(SPAIN, ITALY);
+        service.startNewMatch("Denmark", "Portugal");
+
+        Process process = new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                ReaderProcess.class.getName(), path.toString(), String.valueOf(finalScore))
+                .redirectErrorStream(true)
+                .start();
+        List<String> output = new ArrayList<>();
+        try (BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            Assertions.assertEquals("ready", out.readLine());
+            for (int score = 1; score <= finalScore; score++) {
+                service.updateMatch(SPAIN, ITALY, score, score);
+                service.updateMatch("Denmark", "Portugal", score / 2, score / 2);
+            }
+            Assertions.assertTrue(process.waitFor(30, TimeUnit.SECONDS));
+            String line;
+            while ((line = out.readLine()) != null) {
+                output.add(line);
+            }
+        } finally {
+            process.destroyForcibly();
+        }
+
+        Assertions.assertEquals(0, process.exitValue(), String.join("\n", output));
+        Assertions.assertEquals(List.of("Spain 5000 - Italy 5000", "Denmark 2500 - Portugal 2500"), output);
+    }
+}
@@ -0,0 +1,56 @@
+package com.liveodds.shared;
+
+import com.liveodds.model.Match;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Entry point for the second JVM in {@link MappedScoreboardReaderTest}. Reads snapshots until the expected
+ * final score shows up and exits with a non-zero status if it ever sees a board the writer never published.
+ */
+public class ReaderProcess {
+
+    public static void main(String[] args) {
+        MappedScoreboardReader reader = new MappedScoreboardReader(Path.of(args[0]));
+        int finalScore = Integer.parseInt(args[1]);
+        System.out.println("ready");
+        while (true) {
+            List<Match> snapshot = reader.snapshot();
+            if (!isConsistent(snapshot)) {
+                System.out.println("torn " + snapshot);
+                System.exit(2);
+            }
+            if (find(snapshot, "Spain").homeTeamScore() == finalScore && find(snapshot, "Denmark").homeTeamScore() == finalScore / 2) {
+                snapshot.forEach(System.out::println);
+                return;
+            }
+        }
+    }
+
+    /**
+     * The writer sets Spain to (s, s) and then Denmark to (s / 2, s / 2), so Denmark always holds half of
+     * Spain's current or previous score. A board mixing records from publishes further apart breaks that.
+     */
+    private static boolean isConsistent(List<Match> snapshot) {
+        if (snapshot.size() != 2) {
+            return false;
+        }
+        Match spain = find(snapshot, "Spain");
+        Match denmark = find(snapshot, "Denmark");
+        if (spain == null || denmark == null) {
+            return false;
+        }
+        int score = spain.homeTeamScore();
+        return spain.awayTeamScore() == score
+                && denmark.homeTeamScore() == denmark.awayTeamScore()
+                && (denmark.homeTeamScore() == score / 2 || denmark.homeTeamScore() == (score - 1) / 2);
+    }
+
+    private static Match find(List<Match> snapshot, String homeTeam) {
+        return snapshot.stream()
+                .filter(match -> match.homeTeam().equals(homeTeam))
+                .findFirst()
+                .orElse(null);
+    }
+}